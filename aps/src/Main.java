@@ -1,4 +1,8 @@
+import generator.Distribution;
 import manager.SimulationManager;
+import model.InterruptPolicy;
+import model.MaintenanceSchedule;
+import model.ReliabilityProfile;
 
 import java.util.Scanner;
 
@@ -10,7 +14,14 @@ public class Main {
         while (true) {
             String operationgMode = sc.nextLine().toLowerCase();
             if (operationgMode.equals("авто")) {
-                SimulationManager automaticSimulationManager = new SimulationManager(16, 40, 0.2, 10);
+                ReliabilityProfile reliability = new ReliabilityProfile(
+                        Distribution.exponential(500.0), // MTBF
+                        Distribution.exponential(30.0), // MTTR
+                        InterruptPolicy.RESUME);
+                MaintenanceSchedule maintenance =
+                        new MaintenanceSchedule(100.0, 600.0, 20.0, 25.0, InterruptPolicy.PREEMPT);
+                SimulationManager automaticSimulationManager =
+                        new SimulationManager(16, 40, 0.2, 10, reliability, maintenance);
                 automaticSimulationManager.runAutomaticSimulation(2500);
                 break;
             } else if (operationgMode.equals("шаг")) {
@@ -0,0 +1,209 @@
+package event;
+
+/**
+ * Календарная очередь событий (calendar queue, R. Brown, 1988).
+ * События раскладываются по "дням" фиксированной ширины, дни образуют циклический "год".
+ * Вставка и извлечение выполняются за O(1) в среднем; при изменении числа событий
+ * количество дней и их ширина пересчитываются.
+ * Внутри дня события упорядочены по {@link Event#compareTo(Event)} - по времени, а при равном времени
+ * в порядке создания, поэтому порядок одновременных событий сохраняется и при перестройке очереди.
+ */
+public class CalendarQueue {
+    private static final int MIN_BUCKETS = 2;
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    private Node[] buckets;
+    private double width;
+    private int size;
+    private long currentDay; // Номер текущего дня с начала отсчета времени
+    private boolean resizeEnabled = true;
+
+    /**
+     * Создает пустую календарную очередь.
+     */
+    public CalendarQueue() {
+        this.buckets = new Node[MIN_BUCKETS];
+        this.width = 1.0;
+        this.size = 0;
+        this.currentDay = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет событие в очередь.
+     *
+     * @param event событие с неотрицательным временем.
+     */
+    public void enqueue(Event event) {
+        if (!(event.getTime() >= 0)) {
+            throw new IllegalArgumentException("Время события не может быть отрицательным: " + event.getTime());
+        }
+        Node node = new Node(event, dayOf(event.getTime()));
+        insert(node);
+        size++;
+        if (node.day < currentDay) {
+            currentDay = node.day; // Событие раньше текущего дня - откатываем позицию просмотра
+        }
+        if (resizeEnabled && size > 2 * buckets.length) {
+            resize(2 * buckets.length);
+        }
+    }
+
+    /**
+     * Возвращает ближайшее событие, не удаляя его из очереди.
+     *
+     * @return ближайшее событие или null, если очередь пуста.
+     */
+    public Event peek() {
+        Node head = findHead();
+        return head != null ? head.event : null;
+    }
+
+    /**
+     * Извлекает ближайшее событие из очереди.
+     *
+     * @return ближайшее событие или null, если очередь пуста.
+     */
+    public Event dequeue() {
+        Node head = findHead();
+        if (head == null) {
+            return null;
+        }
+        int index = bucketOf(head.day);
+        buckets[index] = head.next;
+        size--;
+        if (resizeEnabled && buckets.length > MIN_BUCKETS && size < buckets.length / 2) {
+            resize(buckets.length / 2);
+        }
+        return head.event;
+    }
+
+    /**
+     * Находит ближайшее событие и переводит текущий день на день этого события.
+     */
+    private Node findHead() {
+        if (size == 0) {
+            return null;
+        }
+        // Просматриваем дни текущего года
+        for (int i = 0; i < buckets.length; i++) {
+            Node head = buckets[bucketOf(currentDay)];
+            if (head != null && head.day == currentDay) {
+                return head;
+            }
+            currentDay++;
+        }
+        // В течение года событий нет - прямой поиск минимума среди голов списков
+        Node min = null;
+        for (Node head : buckets) {
+            if (head != null && (min == null || head.event.compareTo(min.event) < 0)) {
+                min = head;
+            }
+        }
+        currentDay = min.day;
+        return min;
+    }
+
+    /**
+     * Вставляет узел в список своего дня, сохраняя порядок событий.
+     */
+    private void insert(Node node) {
+        int index = bucketOf(node.day);
+        Node current = buckets[index];
+        if (current == null || node.event.compareTo(current.event) < 0) {
+            node.next = current;
+            buckets[index] = node;
+            return;
+        }
+        while (current.next != null && current.next.event.compareTo(node.event) < 0) {
+            current = current.next;
+        }
+        node.next = current.next;
+        current.next = node;
+    }
+
+    /**
+     * Перестраивает очередь под новое количество дней с пересчитанной шириной дня.
+     */
+    private void resize(int newBucketCount) {
+        double newWidth = estimateWidth();
+        Node[] oldBuckets = buckets;
+        buckets = new Node[newBucketCount];
+        width = newWidth;
+        currentDay = Long.MAX_VALUE;
+        for (Node head : oldBuckets) {
+            Node node = head;
+            while (node != null) {
+                Node next = node.next;
+                node.next = null;
+                node.day = dayOf(node.event.getTime());
+                currentDay = Math.min(currentDay, node.day);
+                insert(node);
+                node = next;
+            }
+        }
+        if (currentDay == Long.MAX_VALUE) {
+            currentDay = 0;
+        }
+    }
+
+    /**
+     * Оценивает ширину дня по среднему интервалу между ближайшими событиями.
+     * Слишком большие интервалы (более чем вдвое больше среднего) не учитываются.
+     */
+    private double estimateWidth() {
+        int sampleSize = Math.min(size, WIDTH_SAMPLE_SIZE);
+        if (sampleSize < 2) {
+            return width;
+        }
+        resizeEnabled = false;
+        Event[] sample = new Event[sampleSize];
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = dequeue();
+        }
+        for (Event event : sample) {
+            enqueue(event);
+        }
+        resizeEnabled = true;
+
+        double total = sample[sampleSize - 1].getTime() - sample[0].getTime();
+        double average = total / (sampleSize - 1);
+        double filteredTotal = 0.0;
+        int filteredCount = 0;
+        for (int i = 1; i < sampleSize; i++) {
+            double separation = sample[i].getTime() - sample[i - 1].getTime();
+            if (separation <= 2.0 * average) {
+                filteredTotal += separation;
+                filteredCount++;
+            }
+        }
+        double filteredAverage = filteredCount == 0 ? 0.0 : filteredTotal / filteredCount;
+        return filteredAverage > 0.0 ? 3.0 * filteredAverage : width;
+    }
+
+    private long dayOf(double time) {
+        return (long) Math.floor(time / width);
+    }
+
+    private int bucketOf(long day) {
+        return (int) (day % buckets.length);
+    }
+
+    private static class Node {
+        private final Event event;
+        private long day;
+        private Node next;
+
+        private Node(Event event, long day) {
+            this.event = event;
+            this.day = day;
+        }
+    }
+}
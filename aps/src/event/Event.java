@@ -0,0 +1,89 @@
+package event;
+
+import generator.OrderGenerator;
+import model.Machine;
+import model.Order;
+
+/**
+ * Класс для представления события в календаре событий.
+ * Хранит время наступления, тип события и участников: станок, заказ или генератор заказов.
+ * События упорядочиваются по времени, а при равном времени - в порядке создания.
+ */
+public class Event implements Comparable<Event> {
+    private static long sequenceCounter = 0;
+    private final long sequence;
+    private final double time;
+    private final EventType type;
+    private final Machine machine;
+    private final Order order;
+    private final OrderGenerator generator;
+
+    /**
+     * Создает событие станка.
+     *
+     * @param time    время наступления события.
+     * @param type    тип события.
+     * @param machine станок, к которому относится событие.
+     */
+    public Event(double time, EventType type, Machine machine) {
+        this(time, type, machine, null, null);
+    }
+
+    /**
+     * Создает событие выполнения заказа станком.
+     *
+     * @param time    время наступления события.
+     * @param type    тип события.
+     * @param machine станок, выполняющий заказ.
+     * @param order   заказ.
+     */
+    public Event(double time, EventType type, Machine machine, Order order) {
+        this(time, type, machine, order, null);
+    }
+
+    /**
+     * Создает событие поступления заказа от генератора.
+     *
+     * @param time      время наступления события.
+     * @param type      тип события.
+     * @param generator генератор заказов.
+     */
+    public Event(double time, EventType type, OrderGenerator generator) {
+        this(time, type, null, null, generator);
+    }
+
+    private Event(double time, EventType type, Machine machine, Order order, OrderGenerator generator) {
+        this.time = time;
+        this.type = type;
+        this.machine = machine;
+        this.order = order;
+        this.generator = generator;
+        this.sequence = sequenceCounter++;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public Machine getMachine() {
+        return machine;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public OrderGenerator getGenerator() {
+        return generator;
+    }
+
+    @Override
+    public int compareTo(Event other) {
+        int byTime = Double.compare(time, other.time);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+}
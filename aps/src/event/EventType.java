@@ -0,0 +1,13 @@
+package event;
+
+/**
+ * Типы событий, которые планируются в календаре событий.
+ */
+public enum EventType {
+    ORDER_ARRIVAL,
+    ORDER_COMPLETION,
+    MACHINE_FAILURE,
+    MACHINE_REPAIR,
+    MAINTENANCE_START,
+    MAINTENANCE_END
+}
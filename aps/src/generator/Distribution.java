@@ -0,0 +1,56 @@
+package generator;
+
+/**
+ * Интерфейс для случайного распределения длительностей.
+ * Используется для задания времени наработки на отказ (MTBF) и времени ремонта (MTTR) станков.
+ */
+@FunctionalInterface
+public interface Distribution {
+
+    /**
+     * Возвращает очередное случайное значение.
+     *
+     * @return неотрицательная длительность.
+     */
+    double sample();
+
+    /**
+     * Экспоненциальное распределение с заданным средним.
+     *
+     * @param mean среднее значение.
+     * @return распределение.
+     */
+    static Distribution exponential(double mean) {
+        if (!(mean > 0.0) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("Среднее значение должно быть положительным: " + mean);
+        }
+        return () -> -1.0 * Math.log(1.0 - Math.random()) * mean;
+    }
+
+    /**
+     * Равномерное распределение на отрезке [min, max].
+     *
+     * @param min минимальное значение.
+     * @param max максимальное значение.
+     * @return распределение.
+     */
+    static Distribution uniform(double min, double max) {
+        if (!(min >= 0.0) || !(max >= min) || Double.isInfinite(max)) {
+            throw new IllegalArgumentException("Некорректный отрезок распределения: [" + min + ", " + max + "]");
+        }
+        return () -> min + (max - min) * Math.random();
+    }
+
+    /**
+     * Детерминированная длительность.
+     *
+     * @param value значение.
+     * @return распределение.
+     */
+    static Distribution constant(double value) {
+        if (!(value >= 0.0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Длительность не может быть отрицательной: " + value);
+        }
+        return () -> value;
+    }
+}
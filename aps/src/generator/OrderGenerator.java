@@ -17,6 +17,7 @@ public class OrderGenerator {
     private double nextOrderTime;
     private int totalRequests = 0;
     private int rejectedOrders = 0;
+    private int completedOrders = 0;
     private double totalWaitTime = 0.0;
     private double totalWaitTimeSquared = 0.0;
     private double totalSystemTime = 0.0; // Общее время в системе
@@ -44,19 +45,27 @@ public class OrderGenerator {
         totalRequests++;
         orderId++;
         generatedItemsAmount++;
-        Order newOrder = new Order(orderId, currentTime);
+        Order newOrder = new Order(orderId, id, currentTime);
+        scheduleNextOrder(); // Запланировать следующий заказ
+        return newOrder;
+    }
+
+    /**
+     * Учитывает выполненный заказ в статистике времени ожидания и времени в системе.
+     *
+     * @param order          выполненный заказ.
+     * @param completionTime время завершения заказа.
+     */
+    public void recordCompletedOrder(Order order, double completionTime) {
+        completedOrders++;
 
-        double waitTime = currentTime - nextOrderTime; // Время ожидания
+        double waitTime = order.getWaitTime(); // Время ожидания в буфере
         totalWaitTime += waitTime;
         totalWaitTimeSquared += waitTime * waitTime;
 
-        double serviceTime = newOrder.getServiceTime(); // Время обработки заказа
-        double systemTime = waitTime + serviceTime; // Время в системе
+        double systemTime = completionTime - order.getOrderTime(); // Время в системе
         totalSystemTime += systemTime;
         totalSystemTimeSquared += systemTime * systemTime;
-
-        scheduleNextOrder(); // Запланировать следующий заказ
-        return newOrder;
     }
 
     public double getNextOrderTime() {
@@ -87,25 +96,25 @@ public class OrderGenerator {
     }
 
     public double getAverageWaitTime() {
-        return generatedItemsAmount == 0 ? 0 : totalWaitTime / generatedItemsAmount;
+        return completedOrders == 0 ? 0 : totalWaitTime / completedOrders;
     }
 
     public double getWaitTimeVariance() {
-        if (generatedItemsAmount > 0) {
+        if (completedOrders > 0) {
             double mean = getAverageWaitTime();
-            return (totalWaitTimeSquared / generatedItemsAmount) - (mean * mean);
+            return (totalWaitTimeSquared / completedOrders) - (mean * mean);
         }
         return 0.0;
     }
 
     public double getAverageSystemTime() {
-        return generatedItemsAmount == 0 ? 0 : totalSystemTime / generatedItemsAmount;
+        return completedOrders == 0 ? 0 : totalSystemTime / completedOrders;
     }
 
     public double getSystemTimeVariance() {
-        if (generatedItemsAmount > 0) {
+        if (completedOrders > 0) {
             double mean = getAverageSystemTime();
-            return (totalSystemTimeSquared / generatedItemsAmount) - (mean * mean);
+            return (totalSystemTimeSquared / completedOrders) - (mean * mean);
         }
         return 0.0;
     }
@@ -26,21 +26,23 @@ public class MachineManager {
      * Выбираем заказ из буфера (последний добавленный, LIFO) и назначает его станку.
      * @param buffer буфер заказов.
      * @param currentTime текущее время симуляции.
+     * @return станок, получивший заказ, или null, если заказ не назначен.
      */
-    public void assignOrderToMachine(Buffer buffer, double currentTime) {
+    public Machine assignOrderToMachine(Buffer buffer, double currentTime) {
         if (buffer.isEmpty()) {
-            return;
+            return null;
         }
 
         Machine availableMachine = machines.stream()
-                .filter(machine -> !machine.isBusy())
+                .filter(Machine::isAvailable)
                 .findFirst()
-                .orElse(null); // доступный станок или null, если все заняты.
+                .orElse(null); // доступный станок или null, если все заняты или простаивают.
 
         if (availableMachine == null) {
-            return;
+            return null;
         }
         Order order = buffer.getNextOrder();
         availableMachine.assignOrder(order, currentTime);
+        return availableMachine;
     }
 }
@@ -1,9 +1,15 @@
 package manager;
 
+import event.CalendarQueue;
+import event.Event;
+import event.EventType;
 import generator.OrderGenerator;
 import model.Buffer;
+import model.InterruptPolicy;
 import model.Machine;
+import model.MaintenanceSchedule;
 import model.Order;
+import model.ReliabilityProfile;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +26,9 @@ public class SimulationManager {
     private final List<OrderManager> orderManagers;
     private final MachineManager machineManager;
     private final List<Order> orders;
+    private final ReliabilityProfile reliability;
+    private final MaintenanceSchedule maintenance;
+    private final CalendarQueue eventQueue;
     private double currentTime;
 
     /**
@@ -31,6 +40,21 @@ public class SimulationManager {
      * @param numGenerators  количество генераторов заказов.
      */
     public SimulationManager(int numMachines, int bufferCapacity, double lambda, int numGenerators) {
+        this(numMachines, bufferCapacity, lambda, numGenerators, null, null);
+    }
+
+    /**
+     * Конструктор инициализирует систему с отказами и плановыми обслуживаниями станков.
+     *
+     * @param numMachines    количество станков.
+     * @param bufferCapacity размер буфера.
+     * @param lambda         интенсивность генерации заказов.
+     * @param numGenerators  количество генераторов заказов.
+     * @param reliability    профиль надежности станков или null, если станки не отказывают.
+     * @param maintenance    календарь плановых обслуживаний или null, если обслуживаний нет.
+     */
+    public SimulationManager(int numMachines, int bufferCapacity, double lambda, int numGenerators,
+                             ReliabilityProfile reliability, MaintenanceSchedule maintenance) {
         this.machines = new ArrayList<>();
         for (int i = 0; i < numMachines; i++) {
             machines.add(new Machine(i + 1));
@@ -45,7 +69,169 @@ public class SimulationManager {
         }
         this.machineManager = new MachineManager(machines);
         this.orders = new ArrayList<>();
+        this.reliability = reliability;
+        this.maintenance = maintenance;
+        this.eventQueue = new CalendarQueue();
         this.currentTime = 0.0;
+        scheduleInitialEvents();
+    }
+
+    /**
+     * Планирует первые поступления заказов, отказы и обслуживания станков.
+     */
+    private void scheduleInitialEvents() {
+        for (OrderGenerator generator : generators) {
+            eventQueue.enqueue(new Event(generator.getNextOrderTime(), EventType.ORDER_ARRIVAL, generator));
+        }
+        for (Machine machine : machines) {
+            if (reliability != null) {
+                eventQueue.enqueue(new Event(reliability.nextTimeToFailure(), EventType.MACHINE_FAILURE, machine));
+            }
+            if (maintenance != null) {
+                eventQueue.enqueue(new Event(maintenance.getFirstStart(machine), EventType.MAINTENANCE_START, machine));
+            }
+        }
+    }
+
+    /**
+     * Обрабатывает все события, наступившие к заданному моменту времени.
+     *
+     * @param time    момент времени, до которого обрабатываются события.
+     * @param verbose выводить ли информацию о событиях.
+     */
+    private void processEventsUntil(double time, boolean verbose) {
+        while (!eventQueue.isEmpty() && eventQueue.peek().getTime() <= time) {
+            processEvent(eventQueue.dequeue(), verbose);
+        }
+    }
+
+    /**
+     * Обрабатывает событие и передает заказы из буфера освободившимся станкам.
+     *
+     * @param event   событие.
+     * @param verbose выводить ли информацию о событии.
+     */
+    private void processEvent(Event event, boolean verbose) {
+        Machine machine = event.getMachine();
+        double time = event.getTime();
+        switch (event.getType()) {
+            case ORDER_ARRIVAL -> {
+                OrderGenerator generator = event.getGenerator();
+                Order newOrder = generator.generateOrder(time);
+                orders.add(newOrder);
+                orderManagers.get(generator.getId() - 1).addOrderToBuffer(newOrder); // Добавляем в буфер
+                generator.scheduleNextOrder(); // Планируем следующее время для заказа
+                eventQueue.enqueue(new Event(generator.getNextOrderTime(), EventType.ORDER_ARRIVAL, generator));
+                if (verbose) {
+                    System.out.println("Заказ " + newOrder.getId() + " был сгенерирован.");
+                    System.out.println("Следующее время генерации заказа: " + generator.getNextOrderTime());
+                }
+            }
+            case ORDER_COMPLETION -> {
+                // Событие устарело, если заказ был прерван или его завершение отложено простоем станка
+                if (machine.getCurrentOrder() == event.getOrder() && machine.hasCompletedOrder(time)) {
+                    completeOrder(machine);
+                }
+            }
+            case MACHINE_FAILURE -> {
+                if (machine.isDown()) {
+                    // Остановленный станок не может отказать - отказ переносится на следующий интервал наработки
+                    eventQueue.enqueue(new Event(time + reliability.nextTimeToFailure(), EventType.MACHINE_FAILURE, machine));
+                } else {
+                    stopMachine(machine, time, true, reliability.getInterruptPolicy());
+                    eventQueue.enqueue(new Event(time + reliability.nextRepairTime(), EventType.MACHINE_REPAIR, machine));
+                    if (verbose) {
+                        System.out.println("Станок " + machine.getId() + " отказал.");
+                    }
+                }
+            }
+            case MACHINE_REPAIR -> {
+                restoreMachine(machine, time);
+                eventQueue.enqueue(new Event(time + reliability.nextTimeToFailure(), EventType.MACHINE_FAILURE, machine));
+                if (verbose) {
+                    System.out.println("Станок " + machine.getId() + " отремонтирован.");
+                }
+            }
+            case MAINTENANCE_START -> {
+                stopMachine(machine, time, false, maintenance.getInterruptPolicy());
+                eventQueue.enqueue(new Event(time + maintenance.getDuration(), EventType.MAINTENANCE_END, machine));
+                eventQueue.enqueue(new Event(time + maintenance.getPeriod(), EventType.MAINTENANCE_START, machine));
+                if (verbose) {
+                    System.out.println("Станок " + machine.getId() + " остановлен на обслуживание.");
+                }
+            }
+            case MAINTENANCE_END -> {
+                restoreMachine(machine, time);
+                if (verbose) {
+                    System.out.println("Обслуживание станка " + machine.getId() + " завершено.");
+                }
+            }
+        }
+        assignOrders(time);
+    }
+
+    /**
+     * Передает заказы из буфера всем свободным станкам и планирует их завершение.
+     *
+     * @param time текущее время симуляции.
+     */
+    private void assignOrders(double time) {
+        Machine machine = machineManager.assignOrderToMachine(buffer, time);
+        while (machine != null) {
+            eventQueue.enqueue(new Event(machine.getCompletionTime(), EventType.ORDER_COMPLETION,
+                    machine, machine.getCurrentOrder()));
+            machine = machineManager.assignOrderToMachine(buffer, time);
+        }
+    }
+
+    /**
+     * Освобождает станок от выполненного заказа и учитывает заказ в статистике генератора.
+     *
+     * @param machine станок с выполненным заказом.
+     */
+    private void completeOrder(Machine machine) {
+        double completionTime = machine.getCompletionTime();
+        Order completedOrder = machine.releaseOrder();
+        generators.get(completedOrder.getGeneratorId() - 1).recordCompletedOrder(completedOrder, completionTime);
+        System.out.println("Заказ " + completedOrder.getId() + " выполнен станком " + machine.getId());
+    }
+
+    /**
+     * Останавливает станок. Заказ, выполненный до момента остановки, сначала освобождается.
+     * При политике PREEMPT незавершенный заказ возвращается в буфер по общим правилам переполнения буфера.
+     *
+     * @param machine станок.
+     * @param time    время остановки.
+     * @param failure true, если остановка вызвана отказом.
+     * @param policy  политика обработки прерванного заказа.
+     */
+    private void stopMachine(Machine machine, double time, boolean failure, InterruptPolicy policy) {
+        if (machine.hasCompletedOrder(time)) {
+            completeOrder(machine);
+        }
+        machine.stop(time, failure);
+        if (policy != InterruptPolicy.PREEMPT) {
+            return;
+        }
+        Order interruptedOrder = machine.interruptOrder();
+        if (interruptedOrder != null) {
+            orderManagers.get(interruptedOrder.getGeneratorId() - 1).addOrderToBuffer(interruptedOrder);
+        }
+    }
+
+    /**
+     * Снимает со станка одну из причин простоя. Если станок снова работает,
+     * завершение приостановленного заказа планируется заново с учетом простоя.
+     *
+     * @param machine станок.
+     * @param time    время восстановления.
+     */
+    private void restoreMachine(Machine machine, double time) {
+        machine.restore(time);
+        Order currentOrder = machine.getCurrentOrder();
+        if (!machine.isDown() && currentOrder != null) {
+            eventQueue.enqueue(new Event(machine.getCompletionTime(), EventType.ORDER_COMPLETION, machine, currentOrder));
+        }
     }
 
     /**
@@ -69,27 +255,7 @@ public class SimulationManager {
             System.out.println();
             System.out.println("Текущее время: " + currentTime);
 
-            for (OrderGenerator generator : generators) {
-                if (currentTime >= generator.getNextOrderTime()) {
-                    Order newOrder = generator.generateOrder(currentTime);
-                    System.out.println("Заказ " + newOrder.getId() + " был сгенерирован.");
-                    orders.add(newOrder);
-                    orderManagers.get(generator.getId() - 1).addOrderToBuffer(newOrder); // Добавляем в буфер
-                    generator.scheduleNextOrder(); // Планируем следующее время для заказа
-                    System.out.println("Следующее время генерации заказа: " + generator.getNextOrderTime());
-                    break;
-                }
-            }
-
-            // Назначение станку нового заказа, если он не занят
-            machineManager.assignOrderToMachine(buffer, currentTime);
-
-            for (Machine machine : machines) {
-                if (machine.hasCompletedOrder(currentTime)) {
-                    Order completedOrder = machine.releaseOrder();
-                    System.out.println("Заказ " + completedOrder.getId() + " выполнен станком " + machine.getId());
-                }
-            }
+            processEventsUntil(currentTime, true);
 
             currentTime += 1;
 
@@ -112,18 +278,19 @@ public class SimulationManager {
         System.out.println("+----+----------------------+");
 
         System.out.println("\nИнформация о станках:");
-        System.out.println("+----+-----------+----------------------+--------------------+");
-        System.out.printf("| %-2s | %-7s | %-11s | %-15s |\n", "Id", "Id Заказа", "Общее кол-во заказов", "Общее время работы");
-        System.out.println("+----+-----------+----------------------+--------------------+");
+        System.out.println("+----+-----------+----------------------+--------------------+-----------+");
+        System.out.printf("| %-2s | %-7s | %-11s | %-15s | %-9s |\n", "Id", "Id Заказа", "Общее кол-во заказов", "Общее время работы", "Состояние");
+        System.out.println("+----+-----------+----------------------+--------------------+-----------+");
         for (var courier : machines) {
             int currentOrderId = courier.getCurrentOrderId();
-            System.out.printf("| %-2d | %-9s | %-20d | %-18.2f |\n",
+            System.out.printf("| %-2d | %-9s | %-20d | %-18.2f | %-9s |\n",
                     courier.getId(),
                     (currentOrderId == 0 ? "None" : currentOrderId),
                     courier.getOrderAmount(),
-                    courier.getTotalWorkTime());
+                    courier.getTotalWorkTime(),
+                    (courier.isDown() ? "простой" : "работает"));
         }
-        System.out.println("+----+-----------+----------------------+--------------------+");
+        System.out.println("+----+-----------+----------------------+--------------------+-----------+");
     }
 
     /**
@@ -132,28 +299,12 @@ public class SimulationManager {
      * @param duration общее время симуляции.
      */
     public void runAutomaticSimulation(double duration) {
-        while (currentTime < duration) {
-
-            for (OrderGenerator generator : generators) {
-                if (currentTime >= generator.getNextOrderTime()) {
-                    Order newOrder = generator.generateOrder(currentTime);
-                    orders.add(newOrder);
-                    orderManagers.get(generator.getId() - 1).addOrderToBuffer(newOrder);
-                    generator.scheduleNextOrder();
-                }
-            }
-
-            machineManager.assignOrderToMachine(buffer, currentTime);
-
-            for (Machine machine : machines) {
-                if (machine.hasCompletedOrder(currentTime)) {
-                    Order completedOrder = machine.releaseOrder();
-                    System.out.println("Заказ " + completedOrder.getId() + " выполнен станком " + machine.getId());
-                }
-            }
-
-            currentTime += 1;
+        while (!eventQueue.isEmpty() && eventQueue.peek().getTime() < duration) {
+            Event event = eventQueue.dequeue();
+            currentTime = event.getTime();
+            processEvent(event, false);
         }
+        currentTime = duration;
         printSimulationResults();
     }
 
@@ -178,16 +329,17 @@ public class SimulationManager {
 
     private void couriersTable() {
         System.out.println("Статистика по станкам:");
-        System.out.println("+----+--------------------+---------------------+");
-        System.out.println("| Id | Общее время работы | Процент загрузки    |");
-        System.out.println("+----+--------------------+---------------------+");
+        System.out.println("+----+--------------------+---------------------+---------------+----------------+");
+        System.out.println("| Id | Общее время работы | Процент загрузки    | Время простоя | Кол-во отказов |");
+        System.out.println("+----+--------------------+---------------------+---------------+----------------+");
         for (Machine machine : machines) {
             double loadPercentage = machine.getMachineLoadPercentage(currentTime);
-            System.out.printf("| %-2d | %-18.2f | %-19.2f |\n",
+            System.out.printf("| %-2d | %-18.2f | %-19.2f | %-13.2f | %-14d |\n",
                     machine.getId(),
-                    machine.getTotalWorkTime(), loadPercentage);
+                    machine.getTotalWorkTime(), loadPercentage,
+                    machine.getTotalDownTime(currentTime), machine.getFailureAmount());
         }
-        System.out.println("+----+--------------------+---------------------+");
+        System.out.println("+----+--------------------+---------------------+---------------+----------------+");
     }
 
     private void generatorsTable() {
@@ -0,0 +1,14 @@
+package model;
+
+/**
+ * Что происходит с текущим заказом при остановке станка (отказ или плановое обслуживание).
+ */
+public enum InterruptPolicy {
+    /** Заказ остается на станке и дорабатывается после восстановления. */
+    RESUME,
+    /**
+     * Заказ снимается со станка и возвращается в буфер. Выполненная часть работы теряется:
+     * при повторном назначении заказ выполняется заново за то же время выполнения.
+     */
+    PREEMPT
+}
@@ -10,6 +10,11 @@ public class Machine {
     private Order currentOrder = null;
     private double totalWorkTime = 0.0;
     private int orderAmount = 0;
+    private int downCount = 0; // Количество активных причин простоя (отказ, обслуживание)
+    private double downSince;
+    private double orderDelay = 0.0; // Время простоя, пришедшееся на текущий заказ
+    private double totalDownTime = 0.0;
+    private int failureAmount = 0;
 
     /**
      * Создает станок с заданным идентификатором.
@@ -37,16 +42,38 @@ public class Machine {
         return isBusy;
     }
 
+    public boolean isDown() {
+        return downCount > 0;
+    }
+
+    /**
+     * Проверяет, может ли станок принять новый заказ.
+     *
+     * @return true, если станок свободен и исправен.
+     */
+    public boolean isAvailable() {
+        return !isBusy && !isDown();
+    }
+
     public boolean hasCompletedOrder(double currentTime) {
-        if (currentOrder != null) {
-            double completionTime = currentOrder.getDispatchTime() + currentOrder.getProductionTime();
-            return currentTime >= completionTime;
+        if (currentOrder != null && !isDown()) {
+            return currentTime >= getCompletionTime();
         }
         return false;
     }
 
+    /**
+     * Возвращает время завершения текущего заказа с учетом простоев станка.
+     *
+     * @return время завершения текущего заказа.
+     */
+    public double getCompletionTime() {
+        return currentOrder.getDispatchTime() + currentOrder.getProductionTime() + orderDelay;
+    }
+
     /**
      * Назначает заказ станку.
+     * Время выполнения генерируется при первом назначении, прерванный заказ выполняется заново за то же время.
      *
      * @param order       заказ для выполнения.
      * @param currentTime текущее время симуляции.
@@ -55,10 +82,12 @@ public class Machine {
         orderAmount++;
         this.isBusy = true;
         this.currentOrder = order;
+        this.orderDelay = 0.0;
+        if (!order.isDispatched()) {
+            order.setProductionTime(generateServiceTime());
+        }
         order.setStartProductionTime(currentTime);
         order.setMachineId(this.id);
-        double serviceTime = generateServiceTime();
-        order.setProductionTime(serviceTime);
     }
 
     /**
@@ -77,6 +106,60 @@ public class Machine {
         return null;
     }
 
+    /**
+     * Останавливает станок (отказ или плановое обслуживание).
+     * Текущий заказ приостанавливается до восстановления станка.
+     *
+     * @param time    время остановки.
+     * @param failure true, если остановка вызвана отказом.
+     */
+    public void stop(double time, boolean failure) {
+        if (failure) {
+            failureAmount++;
+        }
+        if (downCount++ == 0) {
+            downSince = time;
+        }
+    }
+
+    /**
+     * Снимает одну из причин простоя. Станок возобновляет работу, когда сняты все причины.
+     * Время простоя прибавляется к времени выполнения приостановленного заказа.
+     *
+     * @param time время восстановления.
+     */
+    public void restore(double time) {
+        if (downCount == 0) {
+            return;
+        }
+        if (--downCount == 0) {
+            double downTime = time - downSince;
+            totalDownTime += downTime;
+            if (currentOrder != null) {
+                orderDelay += downTime;
+            }
+        }
+    }
+
+    /**
+     * Снимает текущий заказ со станка без выполнения. Вызывается для остановленного станка.
+     * Заказ не учитывается в количестве заказов станка, так как будет выполнен повторно,
+     * а уже выполненная до остановки работа добавляется к общему времени работы.
+     *
+     * @return прерванный заказ или null, если станок был свободен.
+     */
+    public Order interruptOrder() {
+        Order interruptedOrder = currentOrder;
+        if (interruptedOrder != null) {
+            orderAmount--;
+            totalWorkTime += downSince - interruptedOrder.getDispatchTime() - orderDelay;
+        }
+        currentOrder = null;
+        isBusy = false;
+        orderDelay = 0.0;
+        return interruptedOrder;
+    }
+
     public double getTotalWorkTime() {
         return totalWorkTime;
     }
@@ -85,6 +168,18 @@ public class Machine {
         return this.orderAmount;
     }
 
+    public double getTotalDownTime(double currentTime) {
+        return isDown() ? totalDownTime + (currentTime - downSince) : totalDownTime;
+    }
+
+    public int getFailureAmount() {
+        return failureAmount;
+    }
+
+    public Order getCurrentOrder() {
+        return currentOrder;
+    }
+
     public int getCurrentOrderId() {
         return (currentOrder != null ? currentOrder.getId() : 0);
     }
@@ -0,0 +1,69 @@
+package model;
+
+/**
+ * Класс для описания календаря плановых обслуживаний.
+ * Обслуживание повторяется с заданным периодом, начало для каждого станка сдвигается на фиксированный шаг,
+ * чтобы станки не останавливались одновременно.
+ */
+public class MaintenanceSchedule {
+    private final double firstStart;
+    private final double period;
+    private final double duration;
+    private final double stagger;
+    private final InterruptPolicy interruptPolicy;
+
+    /**
+     * Создает календарь плановых обслуживаний.
+     *
+     * @param firstStart      время первого обслуживания первого станка.
+     * @param period          период между обслуживаниями одного станка.
+     * @param duration        длительность обслуживания.
+     * @param stagger         сдвиг начала обслуживания для каждого следующего станка.
+     * @param interruptPolicy политика обработки заказа, прерванного обслуживанием.
+     */
+    public MaintenanceSchedule(double firstStart, double period, double duration, double stagger,
+                               InterruptPolicy interruptPolicy) {
+        if (!(firstStart >= 0.0) || Double.isInfinite(firstStart)) {
+            throw new IllegalArgumentException("Время первого обслуживания не может быть отрицательным");
+        }
+        if (!(duration > 0.0)) {
+            throw new IllegalArgumentException("Длительность обслуживания должна быть положительной");
+        }
+        if (!(stagger > 0.0) || Double.isInfinite(stagger)) {
+            throw new IllegalArgumentException("Сдвиг начала обслуживания должен быть положительным");
+        }
+        if (interruptPolicy == null) {
+            throw new IllegalArgumentException("Политика обработки прерванного заказа не может быть null");
+        }
+        if (!(period > duration) || Double.isInfinite(period)) {
+            throw new IllegalArgumentException("Период обслуживания должен быть больше его длительности");
+        }
+        this.firstStart = firstStart;
+        this.period = period;
+        this.duration = duration;
+        this.stagger = stagger;
+        this.interruptPolicy = interruptPolicy;
+    }
+
+    /**
+     * Возвращает время первого обслуживания станка.
+     *
+     * @param machine станок.
+     * @return время начала первого обслуживания.
+     */
+    public double getFirstStart(Machine machine) {
+        return firstStart + (machine.getId() - 1) * stagger;
+    }
+
+    public double getPeriod() {
+        return period;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public InterruptPolicy getInterruptPolicy() {
+        return interruptPolicy;
+    }
+}
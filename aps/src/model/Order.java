@@ -6,8 +6,11 @@ package model;
  */
 public class Order {
     private final int id;
+    private final int generatorId;
     private final double orderTime;
     private double dispatchTime;
+    private double waitTime; // Время от создания заказа до первой передачи станку
+    private boolean dispatched;
     private double productionTime; // Время выполнения заказа
     private boolean rejected;
     private int machineId;
@@ -15,11 +18,13 @@ public class Order {
     /**
      * Создает заказ с заданным идентификатором и временем создания.
      *
-     * @param id        уникальный идентификатор заказа.
-     * @param orderTime время создания заказа.
+     * @param id          уникальный идентификатор заказа.
+     * @param generatorId идентификатор генератора, создавшего заказ.
+     * @param orderTime   время создания заказа.
      */
-    public Order(int id, double orderTime) {
+    public Order(int id, int generatorId, double orderTime) {
         this.id = id;
+        this.generatorId = generatorId;
         this.orderTime = orderTime;
         this.rejected = false;
     }
@@ -28,12 +33,32 @@ public class Order {
         return id;
     }
 
+    public int getGeneratorId() {
+        return generatorId;
+    }
+
     public double getDispatchTime() {
         return dispatchTime;
     }
 
     public void setStartProductionTime(double dispatchTime) {
         this.dispatchTime = dispatchTime;
+        if (!dispatched) {
+            this.waitTime = dispatchTime - orderTime;
+            this.dispatched = true;
+        }
+    }
+
+    public boolean isDispatched() {
+        return dispatched;
+    }
+
+    public double getOrderTime() {
+        return orderTime;
+    }
+
+    public double getWaitTime() {
+        return waitTime;
     }
 
     public double getProductionTime() {
@@ -0,0 +1,60 @@
+package model;
+
+import generator.Distribution;
+
+/**
+ * Класс для описания надежности станков.
+ * Хранит распределения времени наработки на отказ и времени ремонта, а также политику обработки заказа, прерванного отказом.
+ */
+public class ReliabilityProfile {
+
+    private final Distribution timeToFailure;
+    private final Distribution repairTime;
+    private final InterruptPolicy interruptPolicy;
+
+    /**
+     * Создает профиль надежности.
+     *
+     * @param timeToFailure   распределение времени наработки на отказ (MTBF).
+     * @param repairTime      распределение времени ремонта (MTTR).
+     * @param interruptPolicy политика обработки заказа, прерванного отказом.
+     */
+    public ReliabilityProfile(Distribution timeToFailure, Distribution repairTime, InterruptPolicy interruptPolicy) {
+        if (timeToFailure == null || repairTime == null || interruptPolicy == null) {
+            throw new IllegalArgumentException("Параметры профиля надежности не могут быть null");
+        }
+        this.timeToFailure = timeToFailure;
+        this.repairTime = repairTime;
+        this.interruptPolicy = interruptPolicy;
+    }
+
+    /**
+     * Возвращает очередное время наработки на отказ.
+     *
+     * @return положительная длительность.
+     */
+    public double nextTimeToFailure() {
+        double value = timeToFailure.sample();
+        if (!(value > 0.0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Время наработки на отказ должно быть положительным: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Возвращает очередное время ремонта.
+     *
+     * @return неотрицательная длительность.
+     */
+    public double nextRepairTime() {
+        double value = repairTime.sample();
+        if (!(value >= 0.0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Время ремонта не может быть отрицательным: " + value);
+        }
+        return value;
+    }
+
+    public InterruptPolicy getInterruptPolicy() {
+        return interruptPolicy;
+    }
+}